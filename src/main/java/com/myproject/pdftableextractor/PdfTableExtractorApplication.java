@@ -21,7 +21,8 @@ public class PdfTableExtractorApplication {
                 registry.addMapping("/api/**")
                         .allowedOrigins("http://localhost:5173", "http://localhost:5174")
                         .allowedMethods("GET", "POST", "PUT", "DELETE")
-                        .allowedHeaders("*");
+                        .allowedHeaders("*")
+                        .exposedHeaders("X-Document-Id", "X-Request-Id");
             }
         };
     }
@@ -0,0 +1,88 @@
+package com.myproject.pdftableextractor.batch;
+
+import com.myproject.pdftableextractor.service.ExcelExportService;
+import com.myproject.pdftableextractor.service.PDFTableExtractorService;
+import com.myproject.pdftableextractor.service.TableValidationService;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Command line entry point that converts PDFs from a directory without starting the web server.
+ * Only the three pipeline services are registered, so there is no component scan, no Tomcat
+ * and no upload size limit.
+ */
+public final class BatchApplication {
+
+    private BatchApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        BatchOptions options;
+        try {
+            options = BatchOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(BatchOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        // Per-page debug logging from application.properties would dominate a batch run
+        if (System.getProperty("logging.level.com.myproject.pdftableextractor") == null) {
+            System.setProperty("logging.level.com.myproject.pdftableextractor", "INFO");
+        }
+        // Logging must outlive the conversions that are still finishing after Ctrl-C
+        System.setProperty("logging.register-shutdown-hook", "false");
+
+        int exitCode;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                PDFTableExtractorService.class, TableValidationService.class, ExcelExportService.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                // main() closes the context itself, after the last conversion has finished
+                .registerShutdownHook(false)
+                .run(args)) {
+            BatchProcessor processor = new BatchProcessor(
+                context.getBean(PDFTableExtractorService.class),
+                context.getBean(TableValidationService.class),
+                context.getBean(ExcelExportService.class),
+                options);
+
+            if (options.mode() == BatchOptions.Mode.WATCH) {
+                // Ctrl-C interrupts the watch loop; running conversions finish, queued ones are dropped
+                // and the summary is printed before the JVM exits
+                Thread mainThread = Thread.currentThread();
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    mainThread.interrupt();
+                    try {
+                        mainThread.join();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            }
+
+            try (processor) {
+                try {
+                    if (options.mode() == BatchOptions.Mode.WATCH) {
+                        processor.watch();
+                    } else {
+                        processor.runOnce();
+                    }
+                } catch (InterruptedException e) {
+                    // Stopped by the shutdown hook
+                    processor.cancelPending();
+                }
+            }
+
+            System.out.println(processor.statistics().summary());
+            exitCode = processor.statistics().failed.get() > 0 ? 1 : 0;
+        }
+        if (options.mode() == BatchOptions.Mode.BATCH) {
+            System.exit(exitCode);
+        }
+    }
+}
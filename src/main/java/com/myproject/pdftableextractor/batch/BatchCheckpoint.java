@@ -0,0 +1,60 @@
+package com.myproject.pdftableextractor.batch;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only record of finished input files. A file is identified by name, size and
+ * modification time, so a statement that is replaced in the input directory is converted again.
+ */
+class BatchCheckpoint implements Closeable {
+
+    private final Set<String> completed = ConcurrentHashMap.newKeySet();
+    private final BufferedWriter writer;
+
+    BatchCheckpoint(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        if (Files.exists(file)) {
+            completed.addAll(Files.readAllLines(file, StandardCharsets.UTF_8));
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    static String keyOf(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return file.getFileName() + "\t" + attributes.size() + "\t" + attributes.lastModifiedTime().toMillis();
+    }
+
+    int size() {
+        return completed.size();
+    }
+
+    boolean isCompleted(String key) {
+        return completed.contains(key);
+    }
+
+    synchronized void markCompleted(String key) throws IOException {
+        if (completed.add(key)) {
+            writer.write(key);
+            writer.newLine();
+            // Flush per file so a killed run loses at most the files still in flight
+            writer.flush();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
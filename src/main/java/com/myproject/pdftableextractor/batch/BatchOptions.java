@@ -0,0 +1,61 @@
+package com.myproject.pdftableextractor.batch;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+public record BatchOptions(Mode mode, Path inputDirectory, Path outputDirectory, int threads, Path checkpointFile) {
+
+    public enum Mode { BATCH, WATCH }
+
+    public static final String USAGE = """
+        Usage: BatchApplication <batch|watch> <input-dir> <output-dir> [--threads=N] [--checkpoint=FILE]
+          batch   convert every PDF in <input-dir> once and exit
+          watch   convert existing PDFs, then keep converting new ones until stopped
+          --threads     number of files converted in parallel (default: available processors)
+          --checkpoint  progress file used to resume (default: <output-dir>/.batch-checkpoint)""";
+
+    public static BatchOptions parse(String[] args) {
+        List<String> positional = new ArrayList<>();
+        Integer threads = null;
+        Path checkpointFile = null;
+
+        for (String arg : args) {
+            if (arg.startsWith("--threads=")) {
+                try {
+                    threads = Integer.parseInt(arg.substring("--threads=".length()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid thread count: " + arg);
+                }
+                if (threads < 1) {
+                    throw new IllegalArgumentException("Thread count must be at least 1");
+                }
+            } else if (arg.startsWith("--checkpoint=")) {
+                checkpointFile = Paths.get(arg.substring("--checkpoint=".length()));
+            } else if (!arg.startsWith("--")) {
+                positional.add(arg);
+            }
+            // Any other --option is left for Spring, e.g. --logging.level.root=WARN
+        }
+
+        if (positional.size() != 3) {
+            throw new IllegalArgumentException("Expected a mode, an input directory and an output directory");
+        }
+        Mode mode = switch (positional.get(0)) {
+            case "batch" -> Mode.BATCH;
+            case "watch" -> Mode.WATCH;
+            default -> throw new IllegalArgumentException("Unknown mode: " + positional.get(0));
+        };
+        Path inputDirectory = Paths.get(positional.get(1));
+        Path outputDirectory = Paths.get(positional.get(2));
+
+        return new BatchOptions(
+            mode,
+            inputDirectory,
+            outputDirectory,
+            threads != null ? threads : Runtime.getRuntime().availableProcessors(),
+            checkpointFile != null ? checkpointFile : outputDirectory.resolve(".batch-checkpoint")
+        );
+    }
+}
@@ -0,0 +1,301 @@
+package com.myproject.pdftableextractor.batch;
+
+import com.myproject.pdftableextractor.model.TableData;
+import com.myproject.pdftableextractor.monitoring.RequestIds;
+import com.myproject.pdftableextractor.service.ExcelExportService;
+import com.myproject.pdftableextractor.service.PDFTableExtractorService;
+import com.myproject.pdftableextractor.service.TableValidationService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Runs the extract, validate and export pipeline over a directory of PDFs without going
+ * through HTTP. Files are converted in parallel and every finished file is recorded in the
+ * checkpoint, so an interrupted run picks up where it stopped.
+ */
+@Slf4j
+class BatchProcessor implements AutoCloseable {
+
+    private static final long SETTLE_MILLIS = 500;
+    private static final int MAX_SETTLE_POLLS = 120;
+
+    private final PDFTableExtractorService pdfTableExtractorService;
+    private final TableValidationService tableValidationService;
+    private final ExcelExportService excelExportService;
+    private final BatchOptions options;
+    private final BatchCheckpoint checkpoint;
+    private final BatchStatistics statistics = new BatchStatistics();
+    private final ExecutorService executor;
+    private final Map<Path, AtomicBoolean> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> skippedKeys = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+
+    BatchProcessor(PDFTableExtractorService pdfTableExtractorService,
+                   TableValidationService tableValidationService,
+                   ExcelExportService excelExportService,
+                   BatchOptions options) throws IOException {
+        this.pdfTableExtractorService = pdfTableExtractorService;
+        this.tableValidationService = tableValidationService;
+        this.excelExportService = excelExportService;
+        this.options = options;
+        Files.createDirectories(options.outputDirectory());
+        this.checkpoint = new BatchCheckpoint(options.checkpointFile());
+        this.executor = Executors.newFixedThreadPool(options.threads());
+        log.info("Resuming with {} files already in checkpoint {}", checkpoint.size(), options.checkpointFile());
+    }
+
+    /**
+     * Stops queued files from starting. Conversions already running are left to finish so their
+     * output and checkpoint entry are written; the skipped files are picked up by the next run.
+     */
+    void cancelPending() {
+        cancelled = true;
+    }
+
+    BatchStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Converts every PDF currently in the input directory and waits for all of them to finish.
+     */
+    void runOnce() throws IOException, InterruptedException {
+        List<Future<?>> futures = new ArrayList<>();
+        for (Path file : listPdfs()) {
+            futures.add(submit(file, false));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                // convert() records its own failures, so this only guards against unexpected errors
+                log.error("Unexpected batch error: ", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Converts the existing PDFs, then keeps converting files as they appear until the thread is interrupted.
+     */
+    void watch() throws IOException, InterruptedException {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            // Register before listing so files created in between are not missed
+            options.inputDirectory().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            for (Path file : listPdfs()) {
+                submit(file, true);
+            }
+            log.info("Watching {} for new PDFs", options.inputDirectory().toAbsolutePath());
+
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        log.warn("Watch events overflowed, rescanning {}", options.inputDirectory());
+                        for (Path file : listPdfs()) {
+                            submit(file, true);
+                        }
+                        continue;
+                    }
+                    Path file = options.inputDirectory().resolve((Path) event.context());
+                    if (isPdf(file)) {
+                        submit(file, true);
+                    }
+                }
+                if (!key.reset()) {
+                    log.error("Input directory {} is no longer accessible", options.inputDirectory());
+                    return;
+                }
+            }
+            // Same route as an interrupted take(), so the caller cancels pending files before closing
+            Thread.interrupted();
+            throw new InterruptedException();
+        }
+    }
+
+    private Future<?> submit(Path file, boolean waitForSettle) {
+        // Watch mode sees several events per file. Only one conversion per file runs at a time;
+        // events that arrive meanwhile mark it dirty so it is converted again once the current run ends.
+        boolean[] queued = new boolean[1];
+        inFlight.compute(file, (path, dirty) -> {
+            if (dirty == null) {
+                queued[0] = true;
+                return new AtomicBoolean();
+            }
+            dirty.set(true);
+            return dirty;
+        });
+        if (!queued[0]) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return executor.submit(() -> {
+            try {
+                String convertedVersion = null;
+                do {
+                    // A create and a modify event for the same write must not convert the file twice
+                    String version = versionOf(file);
+                    if (version == null || version.equals(convertedVersion)) {
+                        continue;
+                    }
+                    // Checked before the settle wait so a restart does not pay it for every finished file
+                    if (skipIfCompleted(version)) {
+                        continue;
+                    }
+                    if (waitForSettle) {
+                        waitUntilWritten(file);
+                    }
+                    if (cancelled) {
+                        break;
+                    }
+                    version = versionOf(file);
+                    if (version != null && !version.equals(convertedVersion)) {
+                        convertedVersion = version;
+                        convert(file);
+                    }
+                } while (!cancelled && clearOrRerun(file));
+                if (cancelled) {
+                    inFlight.remove(file);
+                }
+            } catch (InterruptedException e) {
+                inFlight.remove(file);
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                inFlight.remove(file);
+                throw e;
+            }
+        });
+    }
+
+    private String versionOf(Path file) {
+        try {
+            return BatchCheckpoint.keyOf(file);
+        } catch (IOException e) {
+            return null; // Deleted in the meantime
+        }
+    }
+
+    // Atomically either releases the file or consumes its dirty flag, so no event is lost in between
+    private boolean clearOrRerun(Path file) {
+        return inFlight.compute(file, (path, dirty) -> dirty.getAndSet(false) ? dirty : null) != null;
+    }
+
+    private void convert(Path file) {
+        String fileName = file.getFileName().toString();
+        RequestIds.set(fileName);
+        try {
+            String key = BatchCheckpoint.keyOf(file);
+            if (skipIfCompleted(key)) {
+                return;
+            }
+            statistics.bytesRead.addAndGet(Files.size(file));
+
+            List<TableData> tables = pdfTableExtractorService.extractTablesFromPDF(file);
+            if (tables.isEmpty()) {
+                log.warn("No tables found in {}", fileName);
+                statistics.rejected.incrementAndGet();
+                checkpoint.markCompleted(key);
+                return;
+            }
+
+            TableValidationService.ValidationResult validationResult = tableValidationService.validateTableData(tables);
+            if (!validationResult.isValid()) {
+                log.warn("Table validation failed for {}: {}", fileName, validationResult.issues());
+                statistics.rejected.incrementAndGet();
+                checkpoint.markCompleted(key);
+                return;
+            }
+
+            byte[] excelFile = excelExportService.exportToExcel(tables);
+            Path target = options.outputDirectory().resolve(baseName(fileName) + ".xlsx");
+            Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.write(tmp, excelFile);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            statistics.converted.incrementAndGet();
+            statistics.tables.addAndGet(tables.size());
+            statistics.rows.addAndGet(tables.stream().mapToInt(table -> table.getRows().size()).sum());
+            statistics.bytesWritten.addAndGet(excelFile.length);
+            checkpoint.markCompleted(key);
+            log.info("Converted {} to {}", fileName, target);
+        } catch (Exception e) {
+            // Failed files stay out of the checkpoint so the next run retries them
+            statistics.failed.incrementAndGet();
+            log.error("Error converting {}: ", fileName, e);
+        } finally {
+            RequestIds.clear();
+        }
+    }
+
+    private boolean skipIfCompleted(String key) {
+        if (!checkpoint.isCompleted(key)) {
+            return false;
+        }
+        // Repeated watch events for an unchanged file must not inflate the summary
+        if (skippedKeys.add(key)) {
+            statistics.skipped.incrementAndGet();
+        }
+        return true;
+    }
+
+    private void waitUntilWritten(Path file) throws InterruptedException {
+        // A file that is still being copied in keeps growing; wait until its size stops changing.
+        // The wait is capped so an empty or stalled file cannot hold a worker forever; it is then
+        // converted as it is and counted as failed if it is not a usable PDF.
+        long previousSize = -1;
+        for (int poll = 0; poll < MAX_SETTLE_POLLS && !cancelled && Files.exists(file); poll++) {
+            long size;
+            try {
+                size = Files.size(file);
+            } catch (IOException e) {
+                return;
+            }
+            if (size == previousSize) {
+                return;
+            }
+            previousSize = size;
+            Thread.sleep(SETTLE_MILLIS);
+        }
+        if (!cancelled && Files.exists(file)) {
+            log.warn("{} was still changing after {} ms, converting it anyway", file.getFileName(),
+                MAX_SETTLE_POLLS * SETTLE_MILLIS);
+        }
+    }
+
+    private List<Path> listPdfs() throws IOException {
+        try (Stream<Path> files = Files.list(options.inputDirectory())) {
+            return files.filter(this::isPdf).sorted().toList();
+        }
+    }
+
+    private boolean isPdf(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(".pdf") && Files.isRegularFile(file);
+    }
+
+    private static String baseName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        checkpoint.close();
+    }
+}
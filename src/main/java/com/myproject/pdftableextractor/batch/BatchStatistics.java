@@ -0,0 +1,37 @@
+package com.myproject.pdftableextractor.batch;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+class BatchStatistics {
+
+    private final long startNanos = System.nanoTime();
+    final AtomicLong converted = new AtomicLong();
+    final AtomicLong rejected = new AtomicLong();
+    final AtomicLong failed = new AtomicLong();
+    final AtomicLong skipped = new AtomicLong();
+    final AtomicLong tables = new AtomicLong();
+    final AtomicLong rows = new AtomicLong();
+    final AtomicLong bytesRead = new AtomicLong();
+    final AtomicLong bytesWritten = new AtomicLong();
+
+    String summary() {
+        double seconds = Math.max((System.nanoTime() - startNanos) / 1_000_000_000.0, 0.001);
+        long processed = converted.get() + rejected.get() + failed.get();
+        return String.format("""
+            Batch summary
+              converted : %d
+              rejected  : %d (no tables or validation failed)
+              failed    : %d
+              skipped   : %d (already in checkpoint)
+              tables    : %d
+              rows      : %d
+              read      : %.1f MB
+              written   : %.1f MB
+              elapsed   : %.1f s
+              throughput: %.2f files/s, %.2f MB/s""",
+            converted.get(), rejected.get(), failed.get(), skipped.get(),
+            tables.get(), rows.get(),
+            bytesRead.get() / 1_048_576.0, bytesWritten.get() / 1_048_576.0,
+            seconds, processed / seconds, bytesRead.get() / 1_048_576.0 / seconds);
+    }
+}
@@ -0,0 +1,54 @@
+package com.myproject.pdftableextractor.controller;
+
+import com.myproject.pdftableextractor.monitoring.FlightRecorderService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/recording")
+@ConditionalOnProperty(name = "flight-recorder.admin-enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class FlightRecorderController {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderController.class);
+
+    private final FlightRecorderService flightRecorderService;
+
+    @GetMapping
+    public ResponseEntity<?> status() {
+        return ResponseEntity.ok(Map.of("recording", flightRecorderService.isRecording()));
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<?> start(@RequestParam(value = "settings", defaultValue = "profile") String settings) {
+        try {
+            flightRecorderService.start(settings);
+            return ResponseEntity.ok(Map.of("recording", true, "settings", settings));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Error starting flight recording: ", e);
+            return ResponseEntity.badRequest().body("Error starting flight recording: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<?> stop() {
+        try {
+            Path file = flightRecorderService.stopAndDump();
+            return ResponseEntity.ok(Map.of("recording", false, "file", file.toString()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("Error stopping flight recording: ", e);
+            return ResponseEntity.badRequest().body("Error stopping flight recording: " + e.getMessage());
+        }
+    }
+}
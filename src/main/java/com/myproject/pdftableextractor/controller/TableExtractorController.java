@@ -4,6 +4,7 @@ import com.myproject.pdftableextractor.model.TableData;
 import com.myproject.pdftableextractor.service.PDFTableExtractorService;
 import com.myproject.pdftableextractor.service.ExcelExportService;
 import com.myproject.pdftableextractor.service.TableValidationService;
+import com.myproject.pdftableextractor.service.TransactionStoreService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,10 +24,12 @@ import java.util.List;
 public class TableExtractorController {
 
     private static final Logger log = LoggerFactory.getLogger(TableExtractorController.class);
+    private static final String DOCUMENT_ID_HEADER = "X-Document-Id";
 
     private final PDFTableExtractorService pdfTableExtractorService;
     private final ExcelExportService excelExportService;
     private final TableValidationService tableValidationService;
+    private final TransactionStoreService transactionStoreService;
 
     @PostMapping("/extract-table")
     public ResponseEntity<?> extractTable(@RequestParam("file") MultipartFile file) {
@@ -49,6 +52,10 @@ public class TableExtractorController {
             }
 
             log.info("Successfully extracted {} tables", tables.size());
+            String documentId = storeTransactions(file, tables);
+            if (documentId != null) {
+                return ResponseEntity.ok().header(DOCUMENT_ID_HEADER, documentId).body(tables);
+            }
             return ResponseEntity.ok(tables);
         } catch (Exception e) {
             log.error("Error processing PDF: ", e);
@@ -87,6 +94,10 @@ public class TableExtractorController {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
             headers.setContentDispositionFormData("attachment", "pdf_extract.xlsx");
+            String documentId = storeTransactions(file, tables);
+            if (documentId != null) {
+                headers.set(DOCUMENT_ID_HEADER, documentId);
+            }
             
             log.info("Successfully exported tables to Excel");
             return new ResponseEntity<>(excelFile, headers, HttpStatus.OK);
@@ -97,4 +108,17 @@ public class TableExtractorController {
                 .body("{\"error\": \"Error processing PDF: " + e.getMessage().replace("\"", "'") + "\"}");
         }
     }
+
+    private String storeTransactions(MultipartFile file, List<TableData> tables) {
+        if (!transactionStoreService.isEnabled()) {
+            return null;
+        }
+        // Persistence is optional; a store failure must not fail an otherwise successful extraction
+        try {
+            return transactionStoreService.store(file.getBytes(), tables);
+        } catch (Exception e) {
+            log.error("Error storing transactions for file {}: ", file.getOriginalFilename(), e);
+            return null;
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.myproject.pdftableextractor.controller;
+
+import com.myproject.pdftableextractor.model.Transaction;
+import com.myproject.pdftableextractor.service.TransactionStoreService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/transactions")
+@RequiredArgsConstructor
+public class TransactionQueryController {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionQueryController.class);
+
+    private static final String DEFAULT_LIMIT = "100";
+    private static final int MAX_LIMIT = 1000;
+
+    private final TransactionStoreService transactionStoreService;
+
+    @GetMapping("/documents")
+    public ResponseEntity<?> listDocuments() {
+        if (!transactionStoreService.isEnabled()) {
+            return storeDisabled();
+        }
+        return ResponseEntity.ok(transactionStoreService.findDocumentIds());
+    }
+
+    @GetMapping("/documents/{documentId}")
+    public ResponseEntity<?> byDocument(@PathVariable String documentId,
+                                        @RequestParam(value = "offset", defaultValue = "0") int offset,
+                                        @RequestParam(value = "limit", defaultValue = DEFAULT_LIMIT) int limit) {
+        if (!transactionStoreService.isEnabled()) {
+            return storeDisabled();
+        }
+        if (!isValidPage(offset, limit)) {
+            return invalidPage();
+        }
+        List<Transaction> transactions = transactionStoreService.findByDocument(documentId, offset, limit);
+        if (transactions.isEmpty() && !transactionStoreService.findDocumentIds().contains(documentId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(transactions);
+    }
+
+    @GetMapping("/by-date")
+    public ResponseEntity<?> byDate(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                    @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                    @RequestParam(value = "offset", defaultValue = "0") int offset,
+                                    @RequestParam(value = "limit", defaultValue = DEFAULT_LIMIT) int limit) {
+        if (!transactionStoreService.isEnabled()) {
+            return storeDisabled();
+        }
+        if (!isValidPage(offset, limit)) {
+            return invalidPage();
+        }
+        if (from.isAfter(to)) {
+            return ResponseEntity.badRequest().body("'from' must not be after 'to'");
+        }
+        List<Transaction> transactions = transactionStoreService.findByDateRange(from, to, offset, limit);
+        log.debug("Date range {} to {} matched {} transactions", from, to, transactions.size());
+        return ResponseEntity.ok(transactions);
+    }
+
+    @GetMapping("/by-amount")
+    public ResponseEntity<?> byAmount(@RequestParam("min") double min,
+                                      @RequestParam("max") double max,
+                                      @RequestParam(value = "offset", defaultValue = "0") int offset,
+                                      @RequestParam(value = "limit", defaultValue = DEFAULT_LIMIT) int limit) {
+        if (!transactionStoreService.isEnabled()) {
+            return storeDisabled();
+        }
+        if (!isValidPage(offset, limit)) {
+            return invalidPage();
+        }
+        if (!Double.isFinite(min) || !Double.isFinite(max)) {
+            return ResponseEntity.badRequest().body("'min' and 'max' must be finite numbers");
+        }
+        if (min > max) {
+            return ResponseEntity.badRequest().body("'min' must not be greater than 'max'");
+        }
+        List<Transaction> transactions = transactionStoreService.findByAmountRange(min, max, offset, limit);
+        log.debug("Amount range {} to {} matched {} transactions", min, max, transactions.size());
+        return ResponseEntity.ok(transactions);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> byNarration(@RequestParam("narration") String narration,
+                                         @RequestParam(value = "offset", defaultValue = "0") int offset,
+                                         @RequestParam(value = "limit", defaultValue = DEFAULT_LIMIT) int limit) {
+        if (!transactionStoreService.isEnabled()) {
+            return storeDisabled();
+        }
+        if (!isValidPage(offset, limit)) {
+            return invalidPage();
+        }
+        if (narration.isBlank()) {
+            return ResponseEntity.badRequest().body("'narration' must not be blank");
+        }
+        List<Transaction> transactions = transactionStoreService.findByNarration(narration, offset, limit);
+        log.debug("Narration '{}' matched {} transactions", narration, transactions.size());
+        return ResponseEntity.ok(transactions);
+    }
+
+    private boolean isValidPage(int offset, int limit) {
+        return offset >= 0 && limit >= 1 && limit <= MAX_LIMIT;
+    }
+
+    private ResponseEntity<?> invalidPage() {
+        return ResponseEntity.badRequest().body("'offset' must be >= 0 and 'limit' between 1 and " + MAX_LIMIT);
+    }
+
+    private ResponseEntity<?> storeDisabled() {
+        return ResponseEntity.badRequest().body("Transaction store is disabled");
+    }
+}
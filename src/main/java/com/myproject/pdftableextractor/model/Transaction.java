@@ -0,0 +1,20 @@
+package com.myproject.pdftableextractor.model;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Transaction {
+    private String documentId;
+    private int pageNumber;
+    private LocalDate date;
+    private double amount;
+    private String narration;
+}
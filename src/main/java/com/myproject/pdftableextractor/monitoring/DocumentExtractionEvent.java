@@ -0,0 +1,32 @@
+package com.myproject.pdftableextractor.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.myproject.pdftableextractor.DocumentExtraction")
+@Label("Document Extraction")
+@Description("Extraction of all tables from one PDF")
+@Category({"PDF Table Extractor", "Extraction"})
+@StackTrace(false)
+public class DocumentExtractionEvent extends jdk.jfr.Event {
+
+    @Label("Request Id")
+    public String requestId;
+
+    @Label("File Name")
+    public String fileName;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+
+    @Label("Pages")
+    public int pages;
+
+    @Label("Tables Found")
+    public int tablesFound;
+}
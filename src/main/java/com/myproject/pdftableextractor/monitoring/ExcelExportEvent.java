@@ -0,0 +1,29 @@
+package com.myproject.pdftableextractor.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.myproject.pdftableextractor.ExcelExport")
+@Label("Excel Export")
+@Description("Generation of one Excel workbook")
+@Category({"PDF Table Extractor", "Export"})
+@StackTrace(false)
+public class ExcelExportEvent extends jdk.jfr.Event {
+
+    @Label("Request Id")
+    public String requestId;
+
+    @Label("Sheets")
+    public int sheets;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytesWritten;
+}
@@ -0,0 +1,89 @@
+package com.myproject.pdftableextractor.monitoring;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+@Slf4j
+@Service
+public class FlightRecorderService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path dumpDirectory;
+    private final DataSize maxSize;
+    private final Duration maxAge;
+    private Recording recording;
+
+    public FlightRecorderService(@Value("${flight-recorder.dump-directory:recordings}") String dumpDirectory,
+                                 @Value("${flight-recorder.max-size:250MB}") DataSize maxSize,
+                                 @Value("${flight-recorder.max-age:30m}") Duration maxAge) {
+        this.dumpDirectory = Paths.get(dumpDirectory);
+        this.maxSize = maxSize;
+        this.maxAge = maxAge;
+    }
+
+    public synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Starts a recording with one of the JDK's built-in settings ("default" or "profile").
+     * The extractor's own events are enabled by default in both.
+     */
+    public synchronized void start(String settings) throws IOException, ParseException {
+        if (recording != null) {
+            throw new IllegalStateException("A recording is already running");
+        }
+        Recording newRecording = new Recording(Configuration.getConfiguration(settings));
+        newRecording.setName("pdf-table-extractor");
+        newRecording.setToDisk(true);
+        // Bound the on-disk buffer so a recording that is never stopped cannot fill the disk
+        newRecording.setMaxSize(maxSize.toBytes());
+        newRecording.setMaxAge(maxAge);
+        newRecording.start();
+        recording = newRecording;
+        log.info("Started flight recording with '{}' settings (max size {}, max age {})", settings, maxSize, maxAge);
+    }
+
+    /**
+     * Stops the running recording and writes it to a new .jfr file in the dump directory.
+     */
+    public synchronized Path stopAndDump() throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("No recording is running");
+        }
+        try {
+            recording.stop();
+            Files.createDirectories(dumpDirectory);
+            Path file = dumpDirectory.resolve("extractor-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+            recording.dump(file);
+            log.info("Flight recording written to {}", file.toAbsolutePath());
+            return file.toAbsolutePath();
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    @PreDestroy
+    synchronized void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
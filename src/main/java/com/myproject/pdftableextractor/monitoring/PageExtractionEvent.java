@@ -0,0 +1,36 @@
+package com.myproject.pdftableextractor.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.myproject.pdftableextractor.PageExtraction")
+@Label("Page Extraction")
+@Description("Text stripping and table detection for a single PDF page")
+@Category({"PDF Table Extractor", "Extraction"})
+@StackTrace(false)
+public class PageExtractionEvent extends jdk.jfr.Event {
+
+    @Label("Request Id")
+    public String requestId;
+
+    @Label("Page Number")
+    public int pageNumber;
+
+    @Label("Text Elements")
+    public int elementCount;
+
+    @Label("Strip Time")
+    @Timespan
+    public long stripTime;
+
+    @Label("Detect Time")
+    @Timespan
+    public long detectTime;
+
+    @Label("Tables Found")
+    public int tablesFound;
+}
@@ -0,0 +1,43 @@
+package com.myproject.pdftableextractor.monitoring;
+
+import org.slf4j.MDC;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Holds the id of the request being processed on the current thread. Kept free of servlet types
+ * so the services can read it outside a web context.
+ */
+public final class RequestIds {
+
+    public static final String MDC_KEY = "requestId";
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
+    private RequestIds() {
+    }
+
+    public static String current() {
+        return MDC.get(MDC_KEY);
+    }
+
+    public static void set(String requestId) {
+        MDC.put(MDC_KEY, requestId);
+    }
+
+    public static void clear() {
+        MDC.remove(MDC_KEY);
+    }
+
+    /**
+     * Returns the supplied id when it is short and made of safe characters, otherwise a fresh one,
+     * so client input never reaches logs, response headers or recordings unchecked.
+     */
+    public static String sanitize(String requestId) {
+        if (requestId != null && VALID_REQUEST_ID.matcher(requestId).matches()) {
+            return requestId;
+        }
+        return UUID.randomUUID().toString();
+    }
+}
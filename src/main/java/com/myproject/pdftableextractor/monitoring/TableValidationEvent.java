@@ -0,0 +1,30 @@
+package com.myproject.pdftableextractor.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.myproject.pdftableextractor.TableValidation")
+@Label("Table Validation")
+@Description("Validation of the tables extracted from one PDF")
+@Category({"PDF Table Extractor", "Validation"})
+@StackTrace(false)
+public class TableValidationEvent extends jdk.jfr.Event {
+
+    @Label("Request Id")
+    public String requestId;
+
+    @Label("Tables")
+    public int tables;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Issues")
+    public int issues;
+
+    @Label("Valid")
+    public boolean valid;
+}
@@ -1,6 +1,8 @@
 package com.myproject.pdftableextractor.service;
 
 import com.myproject.pdftableextractor.model.TableData;
+import com.myproject.pdftableextractor.monitoring.ExcelExportEvent;
+import com.myproject.pdftableextractor.monitoring.RequestIds;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
@@ -21,6 +23,9 @@ public class ExcelExportService {
 
     public byte[] exportToExcel(List<TableData> tables) throws IOException {
         log.info("Starting Excel export for {} tables", tables.size());
+        ExcelExportEvent event = new ExcelExportEvent();
+        event.begin();
+        int rowsWritten = 0;
         try (Workbook workbook = new XSSFWorkbook()) {
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle amountStyle = createAmountStyle(workbook);
@@ -44,6 +49,7 @@ public class ExcelExportService {
                 
                 // Create data rows
                 List<Map<String, String>> rows = table.getRows();
+                rowsWritten += rows.size();
                 for (int rowNum = 0; rowNum < rows.size(); rowNum++) {
                     Row row = sheet.createRow(rowNum + 1);
                     Map<String, String> rowData = rows.get(rowNum);
@@ -95,6 +101,15 @@ public class ExcelExportService {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             workbook.write(outputStream);
             log.info("Excel export completed successfully");
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.requestId = RequestIds.current();
+                event.sheets = tables.size();
+                event.rows = rowsWritten;
+                event.bytesWritten = outputStream.size();
+                event.commit();
+            }
             return outputStream.toByteArray();
         }
     }
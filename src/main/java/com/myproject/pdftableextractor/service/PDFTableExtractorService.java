@@ -1,6 +1,9 @@
 package com.myproject.pdftableextractor.service;
 
 import com.myproject.pdftableextractor.model.TableData;
+import com.myproject.pdftableextractor.monitoring.DocumentExtractionEvent;
+import com.myproject.pdftableextractor.monitoring.PageExtractionEvent;
+import com.myproject.pdftableextractor.monitoring.RequestIds;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -10,6 +13,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,20 +26,36 @@ public class PDFTableExtractorService {
     private static final float ROW_DETECTION_THRESHOLD = 5.0f;
 
     public List<TableData> extractTablesFromPDF(MultipartFile pdfFile) throws IOException {
-        log.info("Starting PDF extraction for file: {}", pdfFile.getOriginalFilename());
+        return extractTables(pdfFile.getOriginalFilename(), pdfFile.getSize(), () -> Loader.loadPDF(pdfFile.getBytes()));
+    }
+
+    public List<TableData> extractTablesFromPDF(Path pdfFile) throws IOException {
+        // Loading from the file lets PDFBox read it lazily instead of buffering the whole upload
+        return extractTables(pdfFile.getFileName().toString(), Files.size(pdfFile), () -> Loader.loadPDF(pdfFile.toFile()));
+    }
+
+    private List<TableData> extractTables(String fileName, long fileSize, DocumentLoader loader) throws IOException {
+        log.info("Starting PDF extraction for file: {}", fileName);
         List<TableData> tables = new ArrayList<>();
+        String requestId = RequestIds.current();
+        DocumentExtractionEvent documentEvent = new DocumentExtractionEvent();
+        documentEvent.begin();
         
-        try (PDDocument document = Loader.loadPDF(pdfFile.getBytes())) {
+        try (PDDocument document = loader.load()) {
             log.info("PDF loaded successfully. Number of pages: {}", document.getNumberOfPages());
             
             for (int pageNum = 0; pageNum < document.getNumberOfPages(); pageNum++) {
                 log.debug("Processing page {}", pageNum + 1);
+                PageExtractionEvent pageEvent = new PageExtractionEvent();
+                pageEvent.begin();
+                long stripStart = System.nanoTime();
                 CustomPDFTextStripper stripper = new CustomPDFTextStripper();
                 stripper.setStartPage(pageNum + 1);
                 stripper.setEndPage(pageNum + 1);
                 
                 // Get text with positions
                 List<TextElement> textElements = stripper.getTextElements(document);
+                long stripTime = System.nanoTime() - stripStart;
                 log.debug("Found {} text elements on page {}", textElements.size(), pageNum + 1);
                 
                 // Filter out separator lines
@@ -43,9 +64,32 @@ public class PDFTableExtractorService {
                     .collect(Collectors.toList());
                 
                 // Detect and extract tables
+                long detectStart = System.nanoTime();
                 List<TableData> pageTables = detectTables(textElements, pageNum + 1);
+                long detectTime = System.nanoTime() - detectStart;
                 log.info("Found {} tables on page {}", pageTables.size(), pageNum + 1);
                 tables.addAll(pageTables);
+
+                pageEvent.end();
+                if (pageEvent.shouldCommit()) {
+                    pageEvent.requestId = requestId;
+                    pageEvent.pageNumber = pageNum + 1;
+                    pageEvent.elementCount = textElements.size();
+                    pageEvent.stripTime = stripTime;
+                    pageEvent.detectTime = detectTime;
+                    pageEvent.tablesFound = pageTables.size();
+                    pageEvent.commit();
+                }
+            }
+
+            documentEvent.end();
+            if (documentEvent.shouldCommit()) {
+                documentEvent.requestId = requestId;
+                documentEvent.fileName = fileName;
+                documentEvent.fileSize = fileSize;
+                documentEvent.pages = document.getNumberOfPages();
+                documentEvent.tablesFound = tables.size();
+                documentEvent.commit();
             }
         } catch (Exception e) {
             log.error("Error processing PDF: ", e);
@@ -246,6 +290,11 @@ public class PDFTableExtractorService {
         return Math.round(value / threshold) * threshold;
     }
 
+    @FunctionalInterface
+    private interface DocumentLoader {
+        PDDocument load() throws IOException;
+    }
+
     private static class TextElement {
         private final String text;
         private final float x;
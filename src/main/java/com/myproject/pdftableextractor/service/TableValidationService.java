@@ -1,6 +1,8 @@
 package com.myproject.pdftableextractor.service;
 
 import com.myproject.pdftableextractor.model.TableData;
+import com.myproject.pdftableextractor.monitoring.RequestIds;
+import com.myproject.pdftableextractor.monitoring.TableValidationEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +17,8 @@ public class TableValidationService {
     public record ValidationResult(boolean isValid, List<String> issues) {}
 
     public ValidationResult validateTableData(List<TableData> tables) {
+        TableValidationEvent event = new TableValidationEvent();
+        event.begin();
         List<String> issues = new ArrayList<>();
         boolean isValid = true;
 
@@ -69,6 +73,18 @@ public class TableValidationService {
             log.info("Table validation passed successfully");
         }
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.requestId = RequestIds.current();
+            event.tables = tables.size();
+            event.rows = tables.stream()
+                .mapToInt(table -> table.getRows() == null ? 0 : table.getRows().size())
+                .sum();
+            event.issues = issues.size();
+            event.valid = isValid;
+            event.commit();
+        }
+
         return new ValidationResult(isValid, issues);
     }
 
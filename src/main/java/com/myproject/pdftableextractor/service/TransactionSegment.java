@@ -0,0 +1,250 @@
+package com.myproject.pdftableextractor.service;
+
+import com.myproject.pdftableextractor.model.Transaction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Read-only, memory-mapped column file holding the transactions of a single document.
+ *
+ * Layout (all values big-endian):
+ * header (magic, version, rowCount, narrationBytes), amount double[n], epochDay int[n],
+ * page int[n], narrationOffset int[n + 1], dateIndex int[n], amountIndex int[n], narration UTF-8 bytes.
+ * The two index columns hold row numbers sorted by date and by amount, so range queries
+ * are two binary searches followed by a sequential walk.
+ */
+final class TransactionSegment {
+
+    private static final int MAGIC = 0x54585331; // "TXS1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    private final String documentId;
+    private final MappedByteBuffer buffer;
+    private final int rowCount;
+    private final int amountOffset;
+    private final int dateOffset;
+    private final int pageOffset;
+    private final int narrationOffsetsOffset;
+    private final int dateIndexOffset;
+    private final int amountIndexOffset;
+    private final int narrationOffset;
+
+    private TransactionSegment(String documentId, MappedByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a transaction segment: " + documentId);
+        }
+        this.documentId = documentId;
+        this.buffer = buffer;
+        this.rowCount = buffer.getInt(8);
+        this.amountOffset = HEADER_BYTES;
+        this.dateOffset = amountOffset + rowCount * Double.BYTES;
+        this.pageOffset = dateOffset + rowCount * Integer.BYTES;
+        this.narrationOffsetsOffset = pageOffset + rowCount * Integer.BYTES;
+        this.dateIndexOffset = narrationOffsetsOffset + (rowCount + 1) * Integer.BYTES;
+        this.amountIndexOffset = dateIndexOffset + rowCount * Integer.BYTES;
+        this.narrationOffset = amountIndexOffset + rowCount * Integer.BYTES;
+        if (narrationOffset + buffer.getInt(12) != buffer.capacity()) {
+            throw new IOException("Truncated transaction segment: " + documentId);
+        }
+    }
+
+    static TransactionSegment open(Path file, String documentId) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new TransactionSegment(documentId, buffer);
+        }
+    }
+
+    static void write(Path file, List<Transaction> transactions) throws IOException {
+        int n = transactions.size();
+        byte[][] narrations = new byte[n][];
+        int narrationBytes = 0;
+        for (int i = 0; i < n; i++) {
+            String narration = transactions.get(i).getNarration();
+            narrations[i] = (narration == null ? "" : narration).getBytes(StandardCharsets.UTF_8);
+            narrationBytes += narrations[i].length;
+        }
+
+        Integer[] byDate = rowNumbers(n);
+        Arrays.sort(byDate, Comparator.comparing(i -> transactions.get(i).getDate()));
+        Integer[] byAmount = rowNumbers(n);
+        Arrays.sort(byAmount, Comparator.comparingDouble(i -> transactions.get(i).getAmount()));
+
+        int size = HEADER_BYTES + n * Double.BYTES + (5 * n + 1) * Integer.BYTES + narrationBytes;
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(narrationBytes);
+        for (Transaction transaction : transactions) {
+            out.putDouble(transaction.getAmount());
+        }
+        for (Transaction transaction : transactions) {
+            out.putInt(Math.toIntExact(transaction.getDate().toEpochDay()));
+        }
+        for (Transaction transaction : transactions) {
+            out.putInt(transaction.getPageNumber());
+        }
+        int offset = 0;
+        for (byte[] narration : narrations) {
+            out.putInt(offset);
+            offset += narration.length;
+        }
+        out.putInt(offset);
+        for (Integer row : byDate) {
+            out.putInt(row);
+        }
+        for (Integer row : byAmount) {
+            out.putInt(row);
+        }
+        for (byte[] narration : narrations) {
+            out.put(narration);
+        }
+
+        // Write to a sibling file first so readers never map a half-written segment
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(tmp, out.array());
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    int size() {
+        return rowCount;
+    }
+
+    Cursor dateCursor(LocalDate from, LocalDate to) {
+        return new Cursor(dateIndexOffset,
+            lowerBound(dateIndexOffset, from.toEpochDay()), upperBound(dateIndexOffset, to.toEpochDay()));
+    }
+
+    Cursor amountCursor(double min, double max) {
+        return new Cursor(amountIndexOffset, lowerBound(amountIndexOffset, min), upperBound(amountIndexOffset, max));
+    }
+
+    boolean narrationContains(int row, String lowerCaseNeedle) {
+        return narration(row).toLowerCase().contains(lowerCaseNeedle);
+    }
+
+    Transaction row(int row) {
+        return Transaction.builder()
+            .documentId(documentId)
+            .pageNumber(buffer.getInt(pageOffset + row * Integer.BYTES))
+            .date(LocalDate.ofEpochDay(epochDay(row)))
+            .amount(amount(row))
+            .narration(narration(row))
+            .build();
+    }
+
+    /**
+     * Walks one of the sorted indexes between two positions. Rows are only decoded when
+     * {@link #next()} is called, so skipping over a page costs no allocation.
+     */
+    final class Cursor {
+        private final int indexOffset;
+        private final int end;
+        private int position;
+
+        private Cursor(int indexOffset, int start, int end) {
+            this.indexOffset = indexOffset;
+            this.position = start;
+            this.end = end;
+        }
+
+        boolean hasNext() {
+            return position < end;
+        }
+
+        double key() {
+            return keyAt(indexOffset, position);
+        }
+
+        int position() {
+            return position;
+        }
+
+        String documentId() {
+            return documentId;
+        }
+
+        void skip() {
+            position++;
+        }
+
+        Transaction next() {
+            return row(indexAt(indexOffset, position++));
+        }
+    }
+
+    private double keyAt(int indexOffset, int position) {
+        int row = indexAt(indexOffset, position);
+        return indexOffset == dateIndexOffset ? epochDay(row) : amount(row);
+    }
+
+    // First position whose key is >= value
+    private int lowerBound(int indexOffset, double value) {
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyAt(indexOffset, mid) < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First position whose key is > value
+    private int upperBound(int indexOffset, double value) {
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyAt(indexOffset, mid) <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int indexAt(int columnOffset, int position) {
+        return buffer.getInt(columnOffset + position * Integer.BYTES);
+    }
+
+    private int epochDay(int row) {
+        return buffer.getInt(dateOffset + row * Integer.BYTES);
+    }
+
+    private double amount(int row) {
+        return buffer.getDouble(amountOffset + row * Double.BYTES);
+    }
+
+    private String narration(int row) {
+        int start = buffer.getInt(narrationOffsetsOffset + row * Integer.BYTES);
+        int end = buffer.getInt(narrationOffsetsOffset + (row + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        buffer.get(narrationOffset + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Integer[] rowNumbers(int n) {
+        Integer[] rows = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = i;
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,344 @@
+package com.myproject.pdftableextractor.service;
+
+import com.myproject.pdftableextractor.model.TableData;
+import com.myproject.pdftableextractor.model.Transaction;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+public class TransactionStoreService {
+
+    private static final String SEGMENT_SUFFIX = ".tx";
+    private static final Pattern DATE_PATTERN = Pattern.compile("\\b\\d{2}[-/](?:[A-Za-z]{3}|\\d{2})[-/]\\d{4}\\b");
+    // Money always carries two decimals, which keeps account numbers, dates and rates out.
+    // Groups: 1 = leading "-" or "(" marking a negative value, 2 = digits, 3 = Dr/Cr suffix.
+    private static final Pattern MONEY_PATTERN = Pattern.compile(
+        "(?<![\\w.,/:-])([-(])?\\s*₹?\\s*(\\d{1,3}(?:,\\d{2,3})+\\.\\d{2}|\\d+\\.\\d{2})(?![\\d.])\\)?(?:\\s*(Dr|Cr)\\b)?");
+    private static final Pattern BALANCE_LINE_PATTERN = Pattern.compile(
+        "\\b(?:b/f|c/f|brought forward|carried forward|opening balance|closing balance)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TOTAL_LINE_PATTERN = Pattern.compile("^\\s*(?:grand\\s+)?totals?\\b", Pattern.CASE_INSENSITIVE);
+    private static final List<String> KEY_VALUE_HEADERS = List.of("Field", "Value");
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+        dateFormat("dd-MMM-yyyy"),
+        dateFormat("dd/MMM/yyyy"),
+        dateFormat("dd/MM/yyyy"),
+        dateFormat("dd-MM-yyyy")
+    );
+
+    private final boolean enabled;
+    private final Path storeDirectory;
+    private final Map<String, TransactionSegment> segments = new ConcurrentHashMap<>();
+
+    public TransactionStoreService(@Value("${transaction-store.enabled:false}") boolean enabled,
+                                   @Value("${transaction-store.directory:data/transactions}") String storeDirectory) {
+        this.enabled = enabled;
+        this.storeDirectory = Paths.get(storeDirectory);
+    }
+
+    @PostConstruct
+    void loadSegments() throws IOException {
+        if (!enabled) {
+            log.info("Transaction store is disabled");
+            return;
+        }
+        Files.createDirectories(storeDirectory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(storeDirectory, "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String documentId = fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length());
+                try {
+                    segments.put(documentId, TransactionSegment.open(file, documentId));
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable transaction segment {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        log.info("Loaded {} documents from transaction store at {}", segments.size(), storeDirectory.toAbsolutePath());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Persists the transaction rows of a validated extraction. The document id is derived from the
+     * uploaded bytes, so storing the same statement twice reuses the existing segment.
+     */
+    public synchronized String store(byte[] content, List<TableData> tables) throws IOException {
+        if (!enabled) {
+            throw new IllegalStateException("Transaction store is disabled");
+        }
+        String documentId = documentId(content);
+        if (segments.containsKey(documentId)) {
+            log.debug("Document {} already stored, skipping", documentId);
+            return documentId;
+        }
+
+        List<Transaction> transactions = toTransactions(documentId, tables);
+        Path file = storeDirectory.resolve(documentId + SEGMENT_SUFFIX);
+        TransactionSegment.write(file, transactions);
+        segments.put(documentId, TransactionSegment.open(file, documentId));
+        log.info("Stored {} transactions for document {}", transactions.size(), documentId);
+        return documentId;
+    }
+
+    public Set<String> findDocumentIds() {
+        return new TreeSet<>(segments.keySet());
+    }
+
+    public List<Transaction> findByDocument(String documentId, int offset, int limit) {
+        List<Transaction> result = new ArrayList<>();
+        TransactionSegment segment = segments.get(documentId);
+        if (segment != null) {
+            for (int row = offset; row < segment.size() && result.size() < limit; row++) {
+                result.add(segment.row(row));
+            }
+        }
+        return result;
+    }
+
+    public List<Transaction> findByDateRange(LocalDate from, LocalDate to, int offset, int limit) {
+        return merge(segments.values().stream()
+            .map(segment -> segment.dateCursor(from, to))
+            .toList(), offset, limit);
+    }
+
+    public List<Transaction> findByAmountRange(double min, double max, int offset, int limit) {
+        return merge(segments.values().stream()
+            .map(segment -> segment.amountCursor(min, max))
+            .toList(), offset, limit);
+    }
+
+    /**
+     * Narrations have no index, so matches are returned per document (ordered by id) in upload order,
+     * and the scan stops as soon as the page is full.
+     */
+    public List<Transaction> findByNarration(String text, int offset, int limit) {
+        String needle = text.toLowerCase();
+        List<Transaction> result = new ArrayList<>();
+        int skipped = 0;
+        for (String documentId : findDocumentIds()) {
+            TransactionSegment segment = segments.get(documentId);
+            for (int row = 0; row < segment.size() && result.size() < limit; row++) {
+                if (segment.narrationContains(row, needle)) {
+                    if (skipped < offset) {
+                        skipped++;
+                    } else {
+                        result.add(segment.row(row));
+                    }
+                }
+            }
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // Each segment's index is already sorted, so a k-way merge only decodes the rows on the requested page
+    private List<Transaction> merge(List<TransactionSegment.Cursor> cursors, int offset, int limit) {
+        PriorityQueue<TransactionSegment.Cursor> queue = new PriorityQueue<>(
+            Comparator.comparingDouble(TransactionSegment.Cursor::key)
+                .thenComparing(TransactionSegment.Cursor::documentId)
+                .thenComparingInt(TransactionSegment.Cursor::position));
+        cursors.stream()
+            .filter(TransactionSegment.Cursor::hasNext)
+            .forEach(queue::add);
+
+        List<Transaction> result = new ArrayList<>();
+        int skipped = 0;
+        while (!queue.isEmpty() && result.size() < limit) {
+            TransactionSegment.Cursor cursor = queue.poll();
+            if (skipped < offset) {
+                cursor.skip();
+                skipped++;
+            } else {
+                result.add(cursor.next());
+            }
+            if (cursor.hasNext()) {
+                queue.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Turns extracted table rows into signed transactions. The extractor packs the non-empty cells of a
+     * row into the leading headers, so a value cannot be trusted to sit under its own column. Instead the
+     * row is read as text: the date and money values are found by pattern, the last money value of a row
+     * is its running balance and the sign of the transaction comes from how that balance moved.
+     */
+    List<Transaction> toTransactions(String documentId, List<TableData> tables) {
+        List<Transaction> transactions = new ArrayList<>();
+        LocalDate lastDate = null;
+        Double lastBalance = null;
+
+        for (TableData table : tables) {
+            List<String> headers = table.getHeaders() == null ? List.of() : table.getHeaders();
+            if (headers.equals(KEY_VALUE_HEADERS)) {
+                continue; // Account details and other key-value blocks, e.g. "Drawing Power: 50,000.00"
+            }
+            boolean separateDebitCredit = headers.stream().anyMatch(this::isDebitColumn) &&
+                                          headers.stream().anyMatch(this::isCreditColumn);
+
+            // The first line of a region becomes the headers, which may itself be a transaction
+            List<Map<String, String>> rows = new ArrayList<>();
+            Map<String, String> headerRow = new LinkedHashMap<>();
+            headers.forEach(header -> headerRow.put(header, header));
+            rows.add(headerRow);
+            rows.addAll(table.getRows());
+
+            for (Map<String, String> row : rows) {
+                String text = String.join("  ", row.values());
+                List<MatchResult> money = MONEY_PATTERN.matcher(text).results().toList();
+                if (money.isEmpty()) {
+                    continue;
+                }
+                if (BALANCE_LINE_PATTERN.matcher(text).find()) {
+                    // Opening, closing and carried-over balances only anchor the running balance
+                    lastBalance = signedMoney(money.get(money.size() - 1));
+                    continue;
+                }
+                if (TOTAL_LINE_PATTERN.matcher(text).find()) {
+                    continue; // Column totals are neither a transaction nor a balance
+                }
+                Matcher dateMatcher = DATE_PATTERN.matcher(text);
+                LocalDate date = dateMatcher.find() ? parseDate(dateMatcher.group()) : null;
+                if (date != null) {
+                    lastDate = date;
+                } else if (lastDate == null) {
+                    continue;
+                } else {
+                    date = lastDate; // Later transactions of the same day often leave the date blank
+                }
+
+                Double balance = null;
+                MatchResult amountMatch = null;
+                if (money.size() >= 2) {
+                    balance = signedMoney(money.get(money.size() - 1));
+                    for (int i = money.size() - 2; i >= 0 && amountMatch == null; i--) {
+                        if (magnitude(money.get(i)) != 0) {
+                            amountMatch = money.get(i);
+                        }
+                    }
+                } else {
+                    amountMatch = money.get(0);
+                }
+
+                Double amount = amountMatch == null ? null
+                    : signedAmount(amountMatch, balance, lastBalance, separateDebitCredit);
+                if (balance != null) {
+                    lastBalance = balance;
+                }
+                if (amount == null || amount == 0) {
+                    continue;
+                }
+
+                transactions.add(Transaction.builder()
+                    .documentId(documentId)
+                    .pageNumber(table.getPageNumber())
+                    .date(date)
+                    .amount(amount)
+                    .narration(narrationOf(text))
+                    .build());
+            }
+        }
+        return transactions;
+    }
+
+    private Double signedAmount(MatchResult amountMatch, Double balance, Double lastBalance,
+                                boolean separateDebitCredit) {
+        double magnitude = magnitude(amountMatch);
+
+        // A running balance is the most reliable sign, provided it moved by exactly this amount
+        if (balance != null && lastBalance != null) {
+            double delta = balance - lastBalance;
+            if (Math.abs(Math.abs(delta) - magnitude) < 0.005) {
+                return delta < 0 ? -magnitude : magnitude;
+            }
+        }
+        if (amountMatch.group(1) != null || amountMatch.group(3) != null) {
+            return signedMoney(amountMatch);
+        }
+        // A single amount column is signed by convention. With separate debit and credit columns the
+        // extractor may have shifted the value into the wrong one, so its column name proves nothing.
+        if (!separateDebitCredit) {
+            return magnitude;
+        }
+        log.debug("Cannot tell whether {} is a debit or a credit, skipping row", amountMatch.group());
+        return null;
+    }
+
+    private boolean isDebitColumn(String header) {
+        String lower = header.toLowerCase();
+        return lower.contains("withdrawal") || lower.contains("debit");
+    }
+
+    private boolean isCreditColumn(String header) {
+        String lower = header.toLowerCase();
+        return lower.contains("deposit") || lower.contains("credit");
+    }
+
+    private double signedMoney(MatchResult match) {
+        double value = magnitude(match);
+        boolean negative = match.group(1) != null || "Dr".equalsIgnoreCase(match.group(3));
+        return negative ? -value : value;
+    }
+
+    private double magnitude(MatchResult match) {
+        return Double.parseDouble(match.group(2).replace(",", ""));
+    }
+
+    private String narrationOf(String text) {
+        String narration = MONEY_PATTERN.matcher(text).replaceAll(" ");
+        narration = DATE_PATTERN.matcher(narration).replaceFirst(" ");
+        return narration.replaceAll("\\s+", " ").trim();
+    }
+
+    private LocalDate parseDate(String value) {
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(value, format);
+            } catch (DateTimeParseException e) {
+                // Try the next format
+            }
+        }
+        return null;
+    }
+
+    private static String documentId(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static DateTimeFormatter dateFormat(String pattern) {
+        return new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .appendPattern(pattern)
+            .toFormatter(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,67 @@
+package com.myproject.pdftableextractor.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchCheckpointTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void completedFilesAreSkippedAfterRestart() throws Exception {
+        Path pdf = Files.writeString(directory.resolve("statement.pdf"), "content");
+        Path checkpointFile = directory.resolve("state").resolve(".batch-checkpoint");
+        String key = BatchCheckpoint.keyOf(pdf);
+
+        try (BatchCheckpoint checkpoint = new BatchCheckpoint(checkpointFile)) {
+            assertFalse(checkpoint.isCompleted(key));
+            checkpoint.markCompleted(key);
+            checkpoint.markCompleted(key);
+        }
+
+        try (BatchCheckpoint checkpoint = new BatchCheckpoint(checkpointFile)) {
+            assertTrue(checkpoint.isCompleted(key));
+            assertEquals(1, checkpoint.size());
+        }
+    }
+
+    @Test
+    void changedSizeIsReprocessed() throws Exception {
+        Path pdf = Files.writeString(directory.resolve("statement.pdf"), "content");
+        FileTime modified = Files.getLastModifiedTime(pdf);
+        Path checkpointFile = directory.resolve(".batch-checkpoint");
+        try (BatchCheckpoint checkpoint = new BatchCheckpoint(checkpointFile)) {
+            checkpoint.markCompleted(BatchCheckpoint.keyOf(pdf));
+        }
+
+        Files.writeString(pdf, "longer content");
+        Files.setLastModifiedTime(pdf, modified);
+
+        try (BatchCheckpoint checkpoint = new BatchCheckpoint(checkpointFile)) {
+            assertFalse(checkpoint.isCompleted(BatchCheckpoint.keyOf(pdf)));
+        }
+    }
+
+    @Test
+    void changedModificationTimeIsReprocessed() throws Exception {
+        Path pdf = Files.writeString(directory.resolve("statement.pdf"), "content");
+        Path checkpointFile = directory.resolve(".batch-checkpoint");
+        try (BatchCheckpoint checkpoint = new BatchCheckpoint(checkpointFile)) {
+            checkpoint.markCompleted(BatchCheckpoint.keyOf(pdf));
+        }
+
+        FileTime later = FileTime.fromMillis(Files.getLastModifiedTime(pdf).toMillis() + 60_000);
+        Files.setLastModifiedTime(pdf, later);
+
+        try (BatchCheckpoint checkpoint = new BatchCheckpoint(checkpointFile)) {
+            assertFalse(checkpoint.isCompleted(BatchCheckpoint.keyOf(pdf)));
+        }
+    }
+}
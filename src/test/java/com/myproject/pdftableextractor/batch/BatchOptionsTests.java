@@ -0,0 +1,61 @@
+package com.myproject.pdftableextractor.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchOptionsTests {
+
+    @Test
+    void parsesModeDirectoriesAndDefaults() {
+        BatchOptions options = BatchOptions.parse(new String[]{"batch", "in", "out"});
+
+        assertEquals(BatchOptions.Mode.BATCH, options.mode());
+        assertEquals(Paths.get("in"), options.inputDirectory());
+        assertEquals(Paths.get("out"), options.outputDirectory());
+        assertEquals(Runtime.getRuntime().availableProcessors(), options.threads());
+        assertEquals(Paths.get("out", ".batch-checkpoint"), options.checkpointFile());
+    }
+
+    @Test
+    void parsesThreadsAndCheckpoint() {
+        BatchOptions options = BatchOptions.parse(
+            new String[]{"watch", "in", "out", "--threads=4", "--checkpoint=state/progress"});
+
+        assertEquals(BatchOptions.Mode.WATCH, options.mode());
+        assertEquals(4, options.threads());
+        assertEquals(Paths.get("state", "progress"), options.checkpointFile());
+    }
+
+    @Test
+    void leavesUnknownOptionsForSpring() {
+        BatchOptions options = BatchOptions.parse(
+            new String[]{"--logging.level.root=WARN", "batch", "in", "--spring.main.lazy-initialization=true", "out"});
+
+        assertEquals(BatchOptions.Mode.BATCH, options.mode());
+        assertEquals(Paths.get("in"), options.inputDirectory());
+        assertEquals(Paths.get("out"), options.outputDirectory());
+    }
+
+    @Test
+    void rejectsUnknownMode() {
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchOptions.parse(new String[]{"convert", "in", "out"}));
+    }
+
+    @Test
+    void rejectsInvalidThreadCounts() {
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchOptions.parse(new String[]{"batch", "in", "out", "--threads=0"}));
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchOptions.parse(new String[]{"batch", "in", "out", "--threads=many"}));
+    }
+
+    @Test
+    void rejectsMissingDirectories() {
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchOptions.parse(new String[]{"batch", "in"}));
+    }
+}
@@ -0,0 +1,122 @@
+package com.myproject.pdftableextractor.service;
+
+import com.myproject.pdftableextractor.model.Transaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionSegmentTests {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate JAN_2 = LocalDate.of(2024, 1, 2);
+    private static final LocalDate JAN_3 = LocalDate.of(2024, 1, 3);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void emptySegmentRoundTrips() throws IOException {
+        TransactionSegment segment = writeAndOpen(List.of());
+
+        assertEquals(0, segment.size());
+        assertTrue(drain(segment.dateCursor(LocalDate.MIN, LocalDate.MAX)).isEmpty());
+        assertTrue(drain(segment.amountCursor(-Double.MAX_VALUE, Double.MAX_VALUE)).isEmpty());
+    }
+
+    @Test
+    void rowsRoundTripWithMultiByteNarrations() throws IOException {
+        List<Transaction> transactions = List.of(
+            transaction(JAN_2, 250.0, 1, "NEFT ₹ from Zoë"),
+            transaction(JAN_1, -99.5, 2, ""),
+            transaction(JAN_3, 0.01, 3, "支付 UPI 🙂"));
+
+        TransactionSegment segment = writeAndOpen(transactions);
+
+        assertEquals(3, segment.size());
+        for (int row = 0; row < transactions.size(); row++) {
+            assertEquals(transactions.get(row), segment.row(row));
+        }
+        assertTrue(segment.narrationContains(0, "zoë"));
+        assertTrue(segment.narrationContains(2, "🙂"));
+        assertFalse(segment.narrationContains(1, "neft"));
+    }
+
+    @Test
+    void dateRangeIncludesBothBoundsAndDuplicates() throws IOException {
+        TransactionSegment segment = writeAndOpen(List.of(
+            transaction(JAN_3, 1, 1, "a"),
+            transaction(JAN_1, 2, 1, "b"),
+            transaction(JAN_2, 3, 1, "c"),
+            transaction(JAN_2, 4, 1, "d"),
+            transaction(JAN_1, 5, 1, "e")));
+
+        assertEquals(List.of("c", "d"), narrations(drain(segment.dateCursor(JAN_2, JAN_2))));
+        assertEquals(List.of("b", "e", "c", "d"), narrations(drain(segment.dateCursor(JAN_1, JAN_2))));
+        assertEquals(5, drain(segment.dateCursor(JAN_1.minusYears(1), JAN_3.plusYears(1))).size());
+        assertTrue(drain(segment.dateCursor(JAN_3.plusDays(1), JAN_3.plusDays(9))).isEmpty());
+        assertTrue(drain(segment.dateCursor(JAN_3, JAN_1)).isEmpty());
+    }
+
+    @Test
+    void amountRangeIncludesBothBoundsAndDuplicates() throws IOException {
+        TransactionSegment segment = writeAndOpen(List.of(
+            transaction(JAN_1, 100, 1, "a"),
+            transaction(JAN_1, -50, 1, "b"),
+            transaction(JAN_1, 100, 1, "c"),
+            transaction(JAN_1, 20, 1, "d")));
+
+        assertEquals(List.of("a", "c"), narrations(drain(segment.amountCursor(100, 100))));
+        assertEquals(List.of("b", "d", "a", "c"), narrations(drain(segment.amountCursor(-50, 100))));
+        assertEquals(List.of("d"), narrations(drain(segment.amountCursor(-49.99, 99.99))));
+        assertEquals(4, drain(segment.amountCursor(-1e9, 1e9)).size());
+        assertTrue(drain(segment.amountCursor(100.01, 1e9)).isEmpty());
+        assertTrue(drain(segment.amountCursor(-1e9, -50.01)).isEmpty());
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        Path file = directory.resolve("doc.tx");
+        TransactionSegment.write(file, List.of(transaction(JAN_1, 1, 1, "narration")));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(IOException.class, () -> TransactionSegment.open(file, "doc"));
+    }
+
+    private TransactionSegment writeAndOpen(List<Transaction> transactions) throws IOException {
+        Path file = directory.resolve("doc.tx");
+        TransactionSegment.write(file, transactions);
+        return TransactionSegment.open(file, "doc");
+    }
+
+    private static List<Transaction> drain(TransactionSegment.Cursor cursor) {
+        List<Transaction> result = new ArrayList<>();
+        while (cursor.hasNext()) {
+            result.add(cursor.next());
+        }
+        return result;
+    }
+
+    private static List<String> narrations(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getNarration).toList();
+    }
+
+    private static Transaction transaction(LocalDate date, double amount, int page, String narration) {
+        return Transaction.builder()
+            .documentId("doc")
+            .pageNumber(page)
+            .date(date)
+            .amount(amount)
+            .narration(narration)
+            .build();
+    }
+}
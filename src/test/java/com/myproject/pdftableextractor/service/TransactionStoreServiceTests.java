@@ -0,0 +1,113 @@
+package com.myproject.pdftableextractor.service;
+
+import com.myproject.pdftableextractor.model.TableData;
+import com.myproject.pdftableextractor.model.Transaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionStoreServiceTests {
+
+    @TempDir
+    Path storeDirectory;
+
+    @Test
+    void storesSignedAmountsForSampleStatement() throws Exception {
+        TransactionStoreService store = new TransactionStoreService(false, storeDirectory.toString());
+        List<TableData> tables = new PDFTableExtractorService()
+            .extractTablesFromPDF(Paths.get("validation_material/test3.pdf"));
+
+        List<Transaction> transactions = store.toTransactions("test3", tables);
+
+        assertFalse(transactions.isEmpty());
+        assertTrue(transactions.stream().noneMatch(t -> t.getAmount() == 0));
+        // Credits raise the overdrawn balance, debits (interest, charges, cash paid) lower it
+        assertContains(transactions, LocalDate.of(2022, 4, 29), 35_000.00);
+        assertContains(transactions, LocalDate.of(2022, 4, 30), -26_168.00);
+        assertContains(transactions, LocalDate.of(2022, 5, 30), -3_540.00);
+        assertContains(transactions, LocalDate.of(2022, 7, 26), 2_000.00);
+        assertContains(transactions, LocalDate.of(2022, 7, 28), -20_000.00);
+    }
+
+    @Test
+    void ignoresColumnNamesWhenCellsAreShifted() {
+        TransactionStoreService store = new TransactionStoreService(false, storeDirectory.toString());
+        List<String> headers = List.of("Date", "Narration", "Withdrawal", "Deposit", "Balance");
+        List<Map<String, String>> rows = List.of(
+            row(headers, "01/01/2024", "Opening Balance", "1,000.00"),
+            // Deposit with an empty withdrawal cell: the deposit lands under "Withdrawal"
+            row(headers, "02/01/2024", "Salary", "500.00", "1,500.00"),
+            row(headers, "03/01/2024", "ATM", "0.00", "200.00", "1,300.00"),
+            row(headers, "04/01/2024", "Refund", "0.00", "₹ 300.00", "1,600.00"));
+
+        List<Transaction> transactions = store.toTransactions("doc", List.of(
+            TableData.builder().headers(headers).rows(rows).pageNumber(1).build()));
+
+        assertEquals(List.of(500.0, -200.0, 300.0), transactions.stream().map(Transaction::getAmount).toList());
+        assertEquals("Salary", transactions.get(0).getNarration());
+    }
+
+    @Test
+    void readsNegativeSignsAndSkipsSummaryRows() {
+        TransactionStoreService store = new TransactionStoreService(false, storeDirectory.toString());
+        List<String> headers = List.of("Date", "Narration", "Amount", "Balance");
+        List<Map<String, String>> rows = List.of(
+            row(headers, "01/01/2024", "Opening Balance", "1,000.00"),
+            row(headers, "02/01/2024", "Coffee", "-45.00", "955.00"),
+            row(headers, "03/01/2024", "Chargeback", "(300.00)", "655.00"),
+            row(headers, "04/01/2024", "Salary", "500.00", "1,155.00"),
+            row(headers, "Total", "", "155.00"),
+            row(headers, "05/01/2024", "Closing Balance", "1,155.00"),
+            row(headers, "05/01/2024", "Balance c/f", "1,155.00"));
+        List<String> unbalancedHeaders = List.of("Date", "Narration", "Amount");
+        List<Map<String, String>> unbalancedRows = List.of(
+            row(unbalancedHeaders, "06/01/2024", "Card fee", "-12.50"),
+            row(unbalancedHeaders, "07/01/2024", "Reversal", "(7.25)"),
+            row(unbalancedHeaders, "08/01/2024", "Interest", "3.10"));
+        List<Map<String, String>> accountRows = List.of(
+            Map.of("Field", "Drawing Power", "Value", "50,000.00"));
+
+        List<Transaction> transactions = store.toTransactions("doc", List.of(
+            TableData.builder().headers(headers).rows(rows).pageNumber(1).build(),
+            TableData.builder().headers(unbalancedHeaders).rows(unbalancedRows).pageNumber(2).build(),
+            TableData.builder().headers(List.of("Field", "Value")).rows(accountRows).pageNumber(2).build()));
+
+        assertEquals(List.of(-45.0, -300.0, 500.0, -12.5, -7.25, 3.1),
+            transactions.stream().map(Transaction::getAmount).toList());
+        assertEquals("Chargeback", transactions.get(1).getNarration());
+    }
+
+    @Test
+    void skipsShiftedRowsWithoutBalanceOrSign() {
+        TransactionStoreService store = new TransactionStoreService(false, storeDirectory.toString());
+        List<String> headers = List.of("Date", "Narration", "Withdrawal", "Deposit");
+        // A deposit shifted under "Withdrawal": the column name must not decide the sign
+        List<Map<String, String>> rows = List.of(row(headers, "02/01/2024", "Salary", "500.00", ""));
+
+        List<Transaction> transactions = store.toTransactions("doc", List.of(
+            TableData.builder().headers(headers).rows(rows).pageNumber(1).build()));
+
+        assertTrue(transactions.isEmpty());
+    }
+
+    private static void assertContains(List<Transaction> transactions, LocalDate date, double amount) {
+        assertTrue(transactions.stream().anyMatch(t -> t.getDate().equals(date) && t.getAmount() == amount),
+            () -> "Missing " + amount + " on " + date + " in " + transactions);
+    }
+
+    private static Map<String, String> row(List<String> headers, String... values) {
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            row.put(headers.get(i), values[i]);
+        }
+        return row;
+    }
+}